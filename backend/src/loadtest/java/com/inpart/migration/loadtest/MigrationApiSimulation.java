@@ -0,0 +1,120 @@
+package com.inpart.migration.loadtest;
+
+import io.gatling.javaapi.core.ChainBuilder;
+import io.gatling.javaapi.core.ScenarioBuilder;
+import io.gatling.javaapi.core.Simulation;
+import io.gatling.javaapi.http.HttpProtocolBuilder;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static io.gatling.javaapi.core.CoreDsl.*;
+import static io.gatling.javaapi.http.HttpDsl.*;
+
+/**
+ * End-to-end load test for the migration REST API.
+ * Drives a read/write mix against the list, migrate and rollback endpoints
+ * using an open workload model (new users arrive at a fixed rate regardless
+ * of how fast the server answers).
+ *
+ * All parameters are system properties set by the loadtest Maven profile.
+ * The operation, client ID and page of every arriving user come from one
+ * seeded Random, so runs with the same parameters issue the same requests
+ * in the same arrival order and their reports can be compared. Only the
+ * server-side interleaving of concurrent writes to the same client can
+ * still differ between runs.
+ */
+public class MigrationApiSimulation extends Simulation {
+
+    // Sample clients InMemoryClientRepository always creates before the seeded ones
+    private static final int SAMPLE_CLIENTS = 6;
+
+    // Comma-separated; each virtual user is assigned the next URL round-robin
+    private static final List<String> BASE_URLS = Arrays.stream(
+                    System.getProperty("loadtest.baseUrls", "http://localhost:9191").split(","))
+            .map(String::trim)
+            .filter(url -> !url.isEmpty())
+            .toList();
+    private static final int SEED = Integer.getInteger("loadtest.seed", 10_000);
+    private static final double RATE = Double.parseDouble(System.getProperty("loadtest.rate", "100"));
+    private static final int RAMP_SECONDS = Integer.getInteger("loadtest.rampSeconds", 10);
+    private static final int DURATION_SECONDS = Integer.getInteger("loadtest.durationSeconds", 60);
+    private static final double WRITE_PERCENT = Double.parseDouble(System.getProperty("loadtest.writePercent", "20"));
+    private static final int PAGE_SIZE = Integer.getInteger("loadtest.pageSize", 50);
+    private static final long RANDOM_SEED = Long.getLong("loadtest.randomSeed", 42L);
+    private static final double MAX_ERROR_PERCENT =
+            Double.parseDouble(System.getProperty("loadtest.maxErrorPercent", "1"));
+
+    private final Random random = new Random(RANDOM_SEED);
+    private final int clientCount = SEED + SAMPLE_CLIENTS;
+    private final int pageCount = Math.max(1, clientCount / PAGE_SIZE);
+
+    private final Iterator<Map<String, Object>> requestFeeder = Stream.generate(
+            (Supplier<Map<String, Object>>) () -> Map.of(
+                    "op", nextOperation(),
+                    "id", 1 + random.nextInt(clientCount),
+                    "page", random.nextInt(pageCount)))
+            .iterator();
+
+    private final HttpProtocolBuilder httpProtocol = http
+            .baseUrls(BASE_URLS)
+            .acceptHeader("application/json")
+            .shareConnections();
+
+    private final ChainBuilder listLegacy = exec(http("List legacy clients")
+            .get("/api/legacy/clients")
+            .queryParam("page", "#{page}")
+            .queryParam("size", PAGE_SIZE)
+            .check(status().is(200)));
+
+    private final ChainBuilder listMigrated = exec(http("List migrated clients")
+            .get("/api/new/clients")
+            .queryParam("page", 0)
+            .queryParam("size", PAGE_SIZE)
+            .check(status().is(200)));
+
+    // A random client may already be in the requested state, so 409 is an expected answer
+    private final ChainBuilder migrate = exec(http("Migrate client")
+            .post("/api/migrate/#{id}")
+            .check(status().in(200, 409)));
+
+    private final ChainBuilder rollback = exec(http("Rollback client")
+            .post("/api/rollback/#{id}")
+            .check(status().in(200, 409)));
+
+    private final ScenarioBuilder mixedTraffic = scenario("Mixed read/write traffic")
+            .feed(requestFeeder)
+            .doSwitch("#{op}").on(
+                    onCase("listLegacy").then(listLegacy),
+                    onCase("listMigrated").then(listMigrated),
+                    onCase("migrate").then(migrate),
+                    onCase("rollback").then(rollback));
+
+    {
+        setUp(mixedTraffic.injectOpen(
+                        rampUsersPerSec(1).to(RATE).during(RAMP_SECONDS),
+                        constantUsersPerSec(RATE).during(DURATION_SECONDS)))
+                .protocols(httpProtocol)
+                .assertions(global().failedRequests().percent().lt(MAX_ERROR_PERCENT));
+    }
+
+    /**
+     * Picks the next operation from the seeded Random; writes are split evenly
+     * between migrate and rollback, reads between the two list endpoints.
+     */
+    private String nextOperation() {
+        double roll = random.nextDouble() * 100;
+        if (roll < WRITE_PERCENT / 2) {
+            return "migrate";
+        }
+        if (roll < WRITE_PERCENT) {
+            return "rollback";
+        }
+        return roll < WRITE_PERCENT + (100 - WRITE_PERCENT) / 2 ? "listLegacy" : "listMigrated";
+    }
+}
@@ -0,0 +1,154 @@
+package com.inpart.migration.cluster;
+
+import com.inpart.migration.domain.Client;
+import com.inpart.migration.domain.ClientPage;
+import com.inpart.migration.domain.ClientStats;
+import com.inpart.migration.service.MigrationService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Stream;
+
+/**
+ * Routes client operations across the cluster.
+ * Single-client requests go to the owning node; list and stat queries are
+ * scattered to every node and the results merged. With clustering disabled
+ * everything is answered from the local MigrationService.
+ */
+@Service
+public class ClusterCoordinator {
+
+    static final int DEFAULT_PAGE_SIZE = 50;
+
+    private static final Comparator<Client> BY_ID = Comparator.comparing(Client::getId);
+
+    private final MigrationService migrationService;
+    private final ClusterTopology topology;
+    private final PeerClient peerClient;
+
+    public ClusterCoordinator(MigrationService migrationService,
+                              ClusterTopology topology,
+                              PeerClient peerClient) {
+        this.migrationService = migrationService;
+        this.topology = topology;
+        this.peerClient = peerClient;
+    }
+
+    /**
+     * @return true if the given client ID is served by this instance
+     */
+    public boolean isLocal(Long id) {
+        return topology.isLocal(id);
+    }
+
+    /**
+     * Forwards a single-client operation to the node owning the client.
+     * @param id the client ID
+     * @param path API path to invoke on the owner
+     * @return the owner's response
+     */
+    public ResponseEntity<String> forward(Long id, String path) {
+        return peerClient.forward(topology.ownerOf(id), path);
+    }
+
+    /**
+     * Lists clients by migration state, sorted by ID and paginated.
+     * @param migrated true for migrated clients, false for legacy clients
+     * @param page zero-based page number, or null for the first page
+     * @param size page size, or null for all clients (or DEFAULT_PAGE_SIZE if a page is given)
+     * @param localOnly true to answer only from this node's own clients
+     * @return the requested page and the total number of matching clients
+     * @throws IllegalArgumentException if page or size is out of range
+     */
+    public ClientPage listClients(boolean migrated, Integer page, Integer size, boolean localOnly) {
+        if ((page != null && page < 0) || (size != null && size < 1)) {
+            throw new IllegalArgumentException("page must be >= 0 and size must be >= 1");
+        }
+        int limit = size != null ? size : (page != null ? DEFAULT_PAGE_SIZE : Integer.MAX_VALUE);
+        long offset = page != null ? (long) page * limit : 0;
+        // Each node must return enough clients to cover every slot up to the end of the page
+        int window = (int) Math.min(Integer.MAX_VALUE, offset + limit);
+
+        if (!topology.isEnabled() || localOnly) {
+            List<Client> local = localClients(migrated);
+            return new ClientPage(slice(local.stream(), offset, limit), local.size());
+        }
+
+        String path = migrated ? "/new/clients" : "/legacy/clients";
+        List<CompletableFuture<ClientPage>> remote = topology.getPeers().stream()
+                .map(node -> peerClient.fetchClients(node, path, window))
+                .toList();
+
+        List<Client> local = localClients(migrated);
+        List<Client> merged = new ArrayList<>(local.subList(0, Math.min(window, local.size())));
+        long total = local.size();
+        for (CompletableFuture<ClientPage> future : remote) {
+            ClientPage peerPage = join(future);
+            merged.addAll(peerPage.clients());
+            total += peerPage.total();
+        }
+        return new ClientPage(slice(merged.stream().sorted(BY_ID), offset, limit), total);
+    }
+
+    /**
+     * Counts legacy and migrated clients.
+     * @param localOnly true to count only this node's own clients
+     * @return map with legacy, migrated and total counts
+     */
+    public Map<String, Long> getStats(boolean localOnly) {
+        if (!topology.isEnabled() || localOnly) {
+            ClientStats local = migrationService.getClientStats();
+            return stats(local.legacy(), local.migrated());
+        }
+
+        List<CompletableFuture<Map<String, Long>>> remote = topology.getPeers().stream()
+                .map(peerClient::fetchStats)
+                .toList();
+
+        ClientStats local = migrationService.getClientStats();
+        long legacy = local.legacy();
+        long migrated = local.migrated();
+        for (CompletableFuture<Map<String, Long>> future : remote) {
+            Map<String, Long> peerStats = join(future);
+            legacy += peerStats.getOrDefault("legacy", 0L);
+            migrated += peerStats.getOrDefault("migrated", 0L);
+        }
+        return stats(legacy, migrated);
+    }
+
+    private List<Client> localClients(boolean migrated) {
+        // The repository only holds clients this node owns
+        List<Client> clients = migrated
+                ? migrationService.getMigratedClients()
+                : migrationService.getLegacyClients();
+        return clients.stream()
+                .sorted(BY_ID)
+                .toList();
+    }
+
+    private static List<Client> slice(Stream<Client> clients, long offset, int limit) {
+        return clients.skip(offset).limit(limit).toList();
+    }
+
+    private static Map<String, Long> stats(long legacy, long migrated) {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("legacy", legacy);
+        stats.put("migrated", migrated);
+        stats.put("total", legacy + migrated);
+        return stats;
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.inpart.migration.cluster;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Describes this instance's place in the (optional) cluster.
+ * When clustering is disabled every client ID is treated as local.
+ */
+@Component
+public class ClusterTopology {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClusterTopology.class);
+
+    private final boolean enabled;
+    private final String self;
+    private final List<String> peers;
+    private final ConsistentHashRing ring;
+
+    public ClusterTopology(@Value("${migration.cluster.enabled:false}") boolean enabled,
+                           @Value("${migration.cluster.self:}") String self,
+                           @Value("${migration.cluster.nodes:}") String nodes,
+                           @Value("${migration.cluster.virtual-nodes:128}") int virtualNodes) {
+        this.enabled = enabled;
+        this.self = normalize(self);
+
+        if (!enabled) {
+            this.peers = List.of();
+            this.ring = null;
+            return;
+        }
+
+        List<String> members = Arrays.stream(nodes.split(","))
+                .map(ClusterTopology::normalize)
+                .filter(node -> !node.isEmpty())
+                .distinct()
+                .toList();
+        if (!members.contains(this.self)) {
+            throw new IllegalStateException(
+                    "migration.cluster.self (" + self + ") must be listed in migration.cluster.nodes");
+        }
+
+        this.ring = new ConsistentHashRing(members, virtualNodes);
+        this.peers = members.stream()
+                .filter(node -> !node.equals(this.self))
+                .toList();
+
+        logger.info("Cluster mode enabled: self={}, peers={}", this.self, this.peers);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return true if this instance owns the given client ID
+     */
+    public boolean isLocal(Long id) {
+        return !enabled || self.equals(ring.ownerOf(id));
+    }
+
+    /**
+     * @return base URL of the node owning the given client ID
+     */
+    public String ownerOf(Long id) {
+        return enabled ? ring.ownerOf(id) : self;
+    }
+
+    /**
+     * @return base URLs of all other cluster members
+     */
+    public List<String> getPeers() {
+        return peers;
+    }
+
+    private static String normalize(String node) {
+        String trimmed = node.trim();
+        return trimmed.endsWith("/") ? trimmed.substring(0, trimmed.length() - 1) : trimmed;
+    }
+}
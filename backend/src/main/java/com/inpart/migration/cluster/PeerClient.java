@@ -0,0 +1,135 @@
+package com.inpart.migration.cluster;
+
+import com.inpart.migration.domain.Client;
+import com.inpart.migration.domain.ClientPage;
+import com.inpart.migration.exception.PeerUnavailableException;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.*;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * HTTP client for talking to other cluster members.
+ * Requests carry the {@link #FORWARDED_HEADER} so the receiving node
+ * answers from its own data instead of routing again.
+ */
+@Component
+public class PeerClient {
+
+    public static final String FORWARDED_HEADER = "X-Migration-Forwarded";
+    public static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+
+    private static final ParameterizedTypeReference<List<Client>> CLIENT_LIST =
+            new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<Map<String, Long>> STATS =
+            new ParameterizedTypeReference<>() {};
+
+    private final RestTemplate restTemplate;
+    private final ExecutorService executor;
+
+    public PeerClient(RestTemplateBuilder restTemplateBuilder,
+                      @Value("${migration.cluster.timeout:2000}") long timeoutMillis,
+                      @Value("${migration.cluster.fanout-threads:64}") int fanoutThreads) {
+        this.restTemplate = restTemplateBuilder
+                .setConnectTimeout(Duration.ofMillis(timeoutMillis))
+                .setReadTimeout(Duration.ofMillis(timeoutMillis))
+                .build();
+        // Threads are created on demand up to the limit and never queue work:
+        // when every thread is busy the calling request thread makes the peer
+        // call itself, so waiting time is always covered by the read timeout.
+        AtomicInteger threadCount = new AtomicInteger(1);
+        this.executor = new ThreadPoolExecutor(
+                0, fanoutThreads, 60, TimeUnit.SECONDS, new SynchronousQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "peer-fanout-" + threadCount.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * Forwards a POST to the owning node and relays its response as-is.
+     * @param node base URL of the owning node
+     * @param path API path, e.g. /migrate/42
+     * @return the peer's status code and JSON body
+     * @throws PeerUnavailableException if the peer cannot be reached
+     */
+    public ResponseEntity<String> forward(String node, String path) {
+        try {
+            ResponseEntity<String> response = restTemplate.exchange(
+                    node + "/api" + path, HttpMethod.POST, forwardedRequest(), String.class);
+            return ResponseEntity.status(response.getStatusCode())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(response.getBody());
+        } catch (HttpStatusCodeException e) {
+            return ResponseEntity.status(e.getStatusCode())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(e.getResponseBodyAsString());
+        } catch (ResourceAccessException e) {
+            throw new PeerUnavailableException(node, e);
+        }
+    }
+
+    /**
+     * Fetches the first {@code limit} clients a peer owns from a list endpoint.
+     * @param node base URL of the peer
+     * @param path list endpoint path, e.g. /legacy/clients
+     * @param limit maximum number of clients to return
+     * @return future page of the peer's clients, sorted by ID
+     */
+    public CompletableFuture<ClientPage> fetchClients(String node, String path, int limit) {
+        String url = node + "/api" + path + (limit < Integer.MAX_VALUE ? "?page=0&size=" + limit : "");
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                ResponseEntity<List<Client>> response = restTemplate.exchange(
+                        url, HttpMethod.GET, forwardedRequest(), CLIENT_LIST);
+                List<Client> clients = response.getBody() != null ? response.getBody() : List.of();
+                String total = response.getHeaders().getFirst(TOTAL_COUNT_HEADER);
+                return new ClientPage(clients, total != null ? Long.parseLong(total) : clients.size());
+            } catch (ResourceAccessException | HttpStatusCodeException e) {
+                throw new PeerUnavailableException(node, e);
+            }
+        }, executor);
+    }
+
+    /**
+     * Fetches the client counts a peer owns.
+     * @param node base URL of the peer
+     * @return future map of stat name to count
+     */
+    public CompletableFuture<Map<String, Long>> fetchStats(String node) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                Map<String, Long> stats = restTemplate.exchange(
+                        node + "/api/stats", HttpMethod.GET, forwardedRequest(), STATS).getBody();
+                return stats != null ? stats : Map.<String, Long>of();
+            } catch (ResourceAccessException | HttpStatusCodeException e) {
+                throw new PeerUnavailableException(node, e);
+            }
+        }, executor);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static HttpEntity<Void> forwardedRequest() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(FORWARDED_HEADER, "true");
+        headers.setAccept(List.of(MediaType.APPLICATION_JSON));
+        return new HttpEntity<>(headers);
+    }
+}
@@ -1,50 +1,81 @@
 package com.inpart.migration.controller;
 
+import com.inpart.migration.cluster.ClusterCoordinator;
+import com.inpart.migration.cluster.PeerClient;
 import com.inpart.migration.domain.Client;
+import com.inpart.migration.domain.ClientPage;
 import com.inpart.migration.exception.ClientAlreadyMigratedException;
 import com.inpart.migration.exception.ClientNotFoundException;
 import com.inpart.migration.exception.ClientNotMigratedException;
+import com.inpart.migration.exception.PeerUnavailableException;
 import com.inpart.migration.service.MigrationService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.Map;
 
 /**
  * REST Controller for client migration operations.
  * Provides endpoints for viewing and migrating clients.
+ * In cluster mode, requests for clients owned by another node are forwarded
+ * to that node, and list/stat queries are merged across all nodes.
  */
 @RestController
 @RequestMapping("/api")
-@CrossOrigin(origins = {"http://localhost:5454"})
+@CrossOrigin(origins = {"http://localhost:5454"}, exposedHeaders = {PeerClient.TOTAL_COUNT_HEADER})
 public class MigrationController {
     
+    private static final int MISDIRECTED_REQUEST = 421;
+    
     private final MigrationService migrationService;
+    private final ClusterCoordinator clusterCoordinator;
 
-    public MigrationController(MigrationService migrationService) {
+    public MigrationController(MigrationService migrationService, ClusterCoordinator clusterCoordinator) {
         this.migrationService = migrationService;
+        this.clusterCoordinator = clusterCoordinator;
     }
 
     /**
-     * GET /api/legacy/clients
-     * Returns all legacy (non-migrated) clients.
+     * GET /api/legacy/clients?page={page}&size={size}
+     * Returns legacy (non-migrated) clients sorted by ID.
+     * Pagination is optional; the total count is returned in X-Total-Count.
      */
     @GetMapping("/legacy/clients")
-    public ResponseEntity<List<Client>> getLegacyClients() {
-        List<Client> clients = migrationService.getLegacyClients();
-        return ResponseEntity.ok(clients);
+    public ResponseEntity<?> getLegacyClients(
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size,
+            @RequestHeader(value = PeerClient.FORWARDED_HEADER, defaultValue = "false") boolean forwarded) {
+        return listClients(false, page, size, forwarded);
     }
 
     /**
-     * GET /api/new/clients
-     * Returns all migrated clients.
+     * GET /api/new/clients?page={page}&size={size}
+     * Returns migrated clients sorted by ID.
+     * Pagination is optional; the total count is returned in X-Total-Count.
      */
     @GetMapping("/new/clients")
-    public ResponseEntity<List<Client>> getMigratedClients() {
-        List<Client> clients = migrationService.getMigratedClients();
-        return ResponseEntity.ok(clients);
+    public ResponseEntity<?> getMigratedClients(
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size,
+            @RequestHeader(value = PeerClient.FORWARDED_HEADER, defaultValue = "false") boolean forwarded) {
+        return listClients(true, page, size, forwarded);
+    }
+
+    /**
+     * GET /api/stats
+     * Returns the number of legacy, migrated and total clients.
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<?> getStats(
+            @RequestHeader(value = PeerClient.FORWARDED_HEADER, defaultValue = "false") boolean forwarded) {
+        try {
+            return ResponseEntity.ok(clusterCoordinator.getStats(forwarded));
+        } catch (PeerUnavailableException e) {
+            return ResponseEntity
+                    .status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(Map.of("error", e.getMessage()));
+        }
     }
 
     /**
@@ -52,8 +83,15 @@ public class MigrationController {
      * Migrates a client by their ID.
      */
     @PostMapping("/migrate/{id}")
-    public ResponseEntity<?> migrateClient(@PathVariable Long id) {
+    public ResponseEntity<?> migrateClient(
+            @PathVariable Long id,
+            @RequestHeader(value = PeerClient.FORWARDED_HEADER, defaultValue = "false") boolean forwarded) {
         try {
+            if (!clusterCoordinator.isLocal(id)) {
+                return forwarded
+                        ? misdirected(id)
+                        : clusterCoordinator.forward(id, "/migrate/" + id);
+            }
             Client migratedClient = migrationService.migrateClient(id);
             return ResponseEntity.ok(migratedClient);
         } catch (ClientNotFoundException e) {
@@ -64,6 +102,10 @@ public class MigrationController {
             return ResponseEntity
                     .status(HttpStatus.CONFLICT)
                     .body(Map.of("error", e.getMessage()));
+        } catch (PeerUnavailableException e) {
+            return ResponseEntity
+                    .status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity
                     .status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -76,8 +118,15 @@ public class MigrationController {
      * Rolls back a client migration by their ID.
      */
     @PostMapping("/rollback/{id}")
-    public ResponseEntity<?> rollbackMigration(@PathVariable Long id) {
+    public ResponseEntity<?> rollbackMigration(
+            @PathVariable Long id,
+            @RequestHeader(value = PeerClient.FORWARDED_HEADER, defaultValue = "false") boolean forwarded) {
         try {
+            if (!clusterCoordinator.isLocal(id)) {
+                return forwarded
+                        ? misdirected(id)
+                        : clusterCoordinator.forward(id, "/rollback/" + id);
+            }
             Client rolledBackClient = migrationService.rollbackMigration(id);
             return ResponseEntity.ok(rolledBackClient);
         } catch (ClientNotFoundException e) {
@@ -88,11 +137,42 @@ public class MigrationController {
             return ResponseEntity
                     .status(HttpStatus.CONFLICT)
                     .body(Map.of("error", e.getMessage()));
+        } catch (PeerUnavailableException e) {
+            return ResponseEntity
+                    .status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity
                     .status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(Map.of("error", "An unexpected error occurred"));
         }
     }
-}
 
+    /**
+     * A forwarded request for a client this node does not own means the
+     * sender's cluster view differs from ours; refuse rather than write to
+     * a node whose data is never read.
+     */
+    private ResponseEntity<?> misdirected(Long id) {
+        return ResponseEntity
+                .status(MISDIRECTED_REQUEST)
+                .body(Map.of("error", "Client " + id + " is not owned by this cluster node"));
+    }
+
+    private ResponseEntity<?> listClients(boolean migrated, Integer page, Integer size, boolean forwarded) {
+        try {
+            ClientPage result = clusterCoordinator.listClients(migrated, page, size, forwarded);
+            return ResponseEntity.ok()
+                    .header(PeerClient.TOTAL_COUNT_HEADER, String.valueOf(result.total()))
+                    .body(result.clients());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity
+                    .status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of("error", e.getMessage()));
+        } catch (PeerUnavailableException e) {
+            return ResponseEntity
+                    .status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(Map.of("error", e.getMessage()));
+        }
+    }
+}
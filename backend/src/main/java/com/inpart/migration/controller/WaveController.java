@@ -0,0 +1,106 @@
+package com.inpart.migration.controller;
+
+import com.inpart.migration.domain.WaveRequest;
+import com.inpart.migration.exception.InvalidWaveStateException;
+import com.inpart.migration.exception.WaveNotFoundException;
+import com.inpart.migration.scheduler.WaveProgress;
+import com.inpart.migration.scheduler.WaveScheduler;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * REST Controller for scheduled migration waves.
+ * Provides endpoints for registering waves, controlling them and
+ * reading their throughput and lag while they run.
+ */
+@RestController
+@RequestMapping("/api/waves")
+@CrossOrigin(origins = {"http://localhost:5454"})
+public class WaveController {
+    
+    private final WaveScheduler waveScheduler;
+
+    public WaveController(WaveScheduler waveScheduler) {
+        this.waveScheduler = waveScheduler;
+    }
+
+    /**
+     * POST /api/waves
+     * Registers a migration wave and schedules it for its start time.
+     */
+    @PostMapping
+    public ResponseEntity<?> scheduleWave(@RequestBody WaveRequest request) {
+        try {
+            WaveProgress wave = waveScheduler.schedule(request);
+            return ResponseEntity.status(HttpStatus.CREATED).body(wave);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity
+                    .status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * GET /api/waves
+     * Returns the progress of all waves.
+     */
+    @GetMapping
+    public ResponseEntity<List<WaveProgress>> getWaves() {
+        return ResponseEntity.ok(waveScheduler.getWaves());
+    }
+
+    /**
+     * GET /api/waves/{id}
+     * Returns the progress of a wave.
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<?> getWave(@PathVariable Long id) {
+        return handle(id, waveScheduler::getWave);
+    }
+
+    /**
+     * POST /api/waves/{id}/pause
+     * Pauses a running wave.
+     */
+    @PostMapping("/{id}/pause")
+    public ResponseEntity<?> pauseWave(@PathVariable Long id) {
+        return handle(id, waveScheduler::pause);
+    }
+
+    /**
+     * POST /api/waves/{id}/resume
+     * Resumes a paused wave.
+     */
+    @PostMapping("/{id}/resume")
+    public ResponseEntity<?> resumeWave(@PathVariable Long id) {
+        return handle(id, waveScheduler::resume);
+    }
+
+    /**
+     * POST /api/waves/{id}/cancel
+     * Cancels a scheduled, running or paused wave.
+     */
+    @PostMapping("/{id}/cancel")
+    public ResponseEntity<?> cancelWave(@PathVariable Long id) {
+        return handle(id, waveScheduler::cancel);
+    }
+
+    private ResponseEntity<?> handle(Long id, Function<Long, WaveProgress> action) {
+        try {
+            return ResponseEntity.ok(action.apply(id));
+        } catch (WaveNotFoundException e) {
+            return ResponseEntity
+                    .status(HttpStatus.NOT_FOUND)
+                    .body(Map.of("error", e.getMessage()));
+        } catch (InvalidWaveStateException e) {
+            return ResponseEntity
+                    .status(HttpStatus.CONFLICT)
+                    .body(Map.of("error", e.getMessage()));
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.inpart.migration.domain;
+
+import java.util.List;
+
+/**
+ * A page of clients together with the total number of matching clients.
+ */
+public record ClientPage(List<Client> clients, long total) {
+}
@@ -0,0 +1,9 @@
+package com.inpart.migration.domain;
+
+/**
+ * Selects the clients a migration wave works on, resolved when the wave starts.
+ */
+public enum ClientSelector {
+    /** Every client that is still legacy (not migrated) when the wave starts. */
+    ALL_LEGACY
+}
@@ -0,0 +1,7 @@
+package com.inpart.migration.domain;
+
+/**
+ * Number of legacy and migrated clients.
+ */
+public record ClientStats(long legacy, long migrated) {
+}
@@ -0,0 +1,28 @@
+package com.inpart.migration.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Request to schedule a migration wave.
+ * Either clientIds or selector must be given, not both.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WaveRequest {
+    
+    private String name;
+    private List<Long> clientIds;
+    private ClientSelector selector;
+    
+    /** When the wave should start; null starts it immediately. */
+    private Instant startAt;
+    
+    private double maxPerSecond;
+    private int maxConcurrency;
+}
@@ -0,0 +1,12 @@
+package com.inpart.migration.exception;
+
+/**
+ * Exception thrown when a migration wave cannot be paused, resumed or
+ * cancelled from its current state.
+ */
+public class InvalidWaveStateException extends RuntimeException {
+    
+    public InvalidWaveStateException(Long id, String action, Object status) {
+        super("Cannot " + action + " migration wave " + id + " while it is " + status);
+    }
+}
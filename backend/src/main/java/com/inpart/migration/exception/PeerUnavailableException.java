@@ -0,0 +1,11 @@
+package com.inpart.migration.exception;
+
+/**
+ * Exception thrown when a cluster peer cannot be reached.
+ */
+public class PeerUnavailableException extends RuntimeException {
+    
+    public PeerUnavailableException(String node, Throwable cause) {
+        super("Cluster peer unavailable: " + node, cause);
+    }
+}
@@ -0,0 +1,11 @@
+package com.inpart.migration.exception;
+
+/**
+ * Exception thrown when a migration wave is not found by ID.
+ */
+public class WaveNotFoundException extends RuntimeException {
+    
+    public WaveNotFoundException(Long id) {
+        super("Migration wave not found with id: " + id);
+    }
+}
@@ -1,6 +1,9 @@
 package com.inpart.migration.repository;
 
+import com.inpart.migration.cluster.ClusterTopology;
 import com.inpart.migration.domain.Client;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 
 import java.util.*;
@@ -10,26 +13,54 @@ import java.util.stream.Collectors;
 /**
  * In-memory implementation of the OrganizationRepository.
  * Uses a ConcurrentHashMap for thread-safe operations.
- * Pre-populated with sample legacy clients.
+ * Pre-populated with sample legacy clients, plus an optional number of
+ * generated legacy clients (migration.seed.count) for load testing.
+ * In cluster mode only the clients this node owns are stored; IDs are
+ * still assigned globally so every node agrees on who owns which client.
  */
 @Repository
 public class InMemoryClientRepository implements OrganizationRepository {
     
     private final Map<Long, Client> clientStore = new ConcurrentHashMap<>();
+    private final ClusterTopology topology;
     private Long currentId = 1L;
 
     public InMemoryClientRepository() {
+        this(0);
+    }
+
+    public InMemoryClientRepository(int seedCount) {
+        this(seedCount, new ClusterTopology(false, "", "", 1));
+    }
+
+    @Autowired
+    public InMemoryClientRepository(@Value("${migration.seed.count:0}") int seedCount,
+                                    ClusterTopology topology) {
+        this.topology = topology;
         // Initialize with sample legacy clients
         initializeSampleData();
+        seedGeneratedClients(seedCount);
     }
 
     private void initializeSampleData() {
-        save(new Client(currentId++, "UCB Alliance Managers", false));
-        save(new Client(currentId++, "Lilly", false));
-        save(new Client(currentId++, "Shadow Lake Group", false));
-        save(new Client(currentId++, "Ferring", false));
-        save(new Client(currentId++, "University of North Texas", false));
-        save(new Client(currentId++, "Poseidon LLC", false));
+        seed(new Client(currentId++, "UCB Alliance Managers", false));
+        seed(new Client(currentId++, "Lilly", false));
+        seed(new Client(currentId++, "Shadow Lake Group", false));
+        seed(new Client(currentId++, "Ferring", false));
+        seed(new Client(currentId++, "University of North Texas", false));
+        seed(new Client(currentId++, "Poseidon LLC", false));
+    }
+
+    private void seedGeneratedClients(int count) {
+        for (int i = 1; i <= count; i++) {
+            seed(new Client(currentId++, "Generated Client " + i, false));
+        }
+    }
+
+    private void seed(Client client) {
+        if (topology.isLocal(client.getId())) {
+            clientStore.put(client.getId(), client);
+        }
     }
 
     @Override
@@ -56,10 +87,30 @@ public class InMemoryClientRepository implements OrganizationRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public long countByMigratedFalse() {
+        return clientStore.values().stream()
+                .filter(client -> !client.isMigrated())
+                .count();
+    }
+
+    @Override
+    public long countByMigratedTrue() {
+        return clientStore.values().stream()
+                .filter(Client::isMigrated)
+                .count();
+    }
+
     @Override
     public Client save(Client client) {
         if (client.getId() == null) {
-            client.setId(currentId++);
+            // Skip IDs owned by other nodes so the new client lands here
+            do {
+                client.setId(currentId++);
+            } while (!topology.isLocal(client.getId()));
+        } else if (!topology.isLocal(client.getId())) {
+            throw new IllegalArgumentException(
+                    "Client " + client.getId() + " is owned by another cluster node");
         }
         clientStore.put(client.getId(), client);
         return client;
@@ -36,10 +36,23 @@ public interface OrganizationRepository {
      */
     List<Client> findByMigratedTrue();
     
+    /**
+     * Count legacy (non-migrated) clients.
+     * @return number of clients where migrated = false
+     */
+    long countByMigratedFalse();
+    
+    /**
+     * Count migrated clients.
+     * @return number of clients where migrated = true
+     */
+    long countByMigratedTrue();
+    
     /**
      * Save or update a client.
      * @param client the client to save
      * @return the saved client
+     * @throws IllegalArgumentException if the client is owned by another cluster node
      */
     Client save(Client client);
 }
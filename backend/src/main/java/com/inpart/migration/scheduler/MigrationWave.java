@@ -0,0 +1,265 @@
+package com.inpart.migration.scheduler;
+
+import com.inpart.migration.domain.WaveRequest;
+import com.inpart.migration.exception.InvalidWaveStateException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * State of a single migration wave: lifecycle, pause/resume/cancel control
+ * and progress counters. The dispatch loop itself lives in WaveScheduler.
+ */
+public class MigrationWave {
+
+    private final Long id;
+    private final WaveRequest request;
+    private final Instant startAt;
+
+    private final AtomicLong migrated = new AtomicLong();
+    private final AtomicLong skipped = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition resumed = lock.newCondition();
+
+    // Guarded by lock
+    private WaveStatus status = WaveStatus.SCHEDULED;
+    private String failureReason;
+    private long total;
+    private Instant startedAt;
+    private Instant finishedAt;
+    private long activeNanos;
+    private long activeSince;
+    private ScheduledFuture<?> startTask;
+    private Thread dispatcher;
+
+    public MigrationWave(Long id, WaveRequest request, Instant startAt) {
+        this.id = id;
+        this.request = request;
+        this.startAt = startAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public WaveRequest getRequest() {
+        return request;
+    }
+
+    public Instant getStartAt() {
+        return startAt;
+    }
+
+    void setStartTask(ScheduledFuture<?> startTask) {
+        lock.lock();
+        try {
+            this.startTask = startTask;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void setDispatcher(Thread dispatcher) {
+        lock.lock();
+        try {
+            this.dispatcher = dispatcher;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Moves the wave from SCHEDULED to RUNNING.
+     * @param total number of clients the wave will process
+     * @return false if the wave was cancelled before it could start
+     */
+    boolean start(long total) {
+        lock.lock();
+        try {
+            if (status != WaveStatus.SCHEDULED) {
+                return false;
+            }
+            this.total = total;
+            this.status = WaveStatus.RUNNING;
+            this.startedAt = Instant.now();
+            this.activeSince = System.nanoTime();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Blocks while the wave is paused.
+     * @return true if the wave is running, false if it was cancelled
+     * @throws InterruptedException if interrupted while paused
+     */
+    boolean awaitRunnable() throws InterruptedException {
+        lock.lock();
+        try {
+            while (status == WaveStatus.PAUSED) {
+                resumed.await();
+            }
+            return status == WaveStatus.RUNNING;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void record(WaveOutcome outcome) {
+        switch (outcome) {
+            case MIGRATED -> migrated.incrementAndGet();
+            case SKIPPED -> skipped.incrementAndGet();
+            case FAILED -> failed.incrementAndGet();
+        }
+    }
+
+    /**
+     * Marks a running wave as completed once every client was dispatched.
+     */
+    void finish() {
+        lock.lock();
+        try {
+            if (status == WaveStatus.RUNNING || status == WaveStatus.PAUSED) {
+                stopClock();
+                status = WaveStatus.COMPLETED;
+            }
+            if (finishedAt == null) {
+                finishedAt = Instant.now();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Marks the wave as failed, e.g. when its clients could not be resolved.
+     */
+    void fail(String reason) {
+        lock.lock();
+        try {
+            stopClock();
+            status = WaveStatus.FAILED;
+            failureReason = reason;
+            finishedAt = Instant.now();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Pauses a running wave. Migrations already in flight complete.
+     * @throws InvalidWaveStateException if the wave is not running
+     */
+    public void pause() {
+        lock.lock();
+        try {
+            if (status != WaveStatus.RUNNING) {
+                throw new InvalidWaveStateException(id, "pause", status);
+            }
+            stopClock();
+            status = WaveStatus.PAUSED;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Resumes a paused wave.
+     * @throws InvalidWaveStateException if the wave is not paused
+     */
+    public void resume() {
+        lock.lock();
+        try {
+            if (status != WaveStatus.PAUSED) {
+                throw new InvalidWaveStateException(id, "resume", status);
+            }
+            activeSince = System.nanoTime();
+            status = WaveStatus.RUNNING;
+            resumed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Cancels a scheduled, running or paused wave. Migrations already in
+     * flight complete; no further clients are dispatched.
+     * @throws InvalidWaveStateException if the wave has already finished
+     */
+    public void cancel() {
+        lock.lock();
+        try {
+            if (status.isFinished()) {
+                throw new InvalidWaveStateException(id, "cancel", status);
+            }
+            stopClock();
+            status = WaveStatus.CANCELLED;
+            finishedAt = Instant.now();
+            resumed.signalAll();
+            if (startTask != null) {
+                startTask.cancel(false);
+            }
+            if (dispatcher != null) {
+                dispatcher.interrupt();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public WaveStatus getStatus() {
+        lock.lock();
+        try {
+            return status;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return a consistent snapshot of the wave's progress and metrics
+     */
+    public WaveProgress getProgress() {
+        lock.lock();
+        try {
+            long activeTotal = status == WaveStatus.RUNNING
+                    ? activeNanos + (System.nanoTime() - activeSince)
+                    : activeNanos;
+            double activeSeconds = activeTotal / (double) TimeUnit.SECONDS.toNanos(1);
+
+            long migratedCount = migrated.get();
+            long skippedCount = skipped.get();
+            long failedCount = failed.get();
+            long processed = migratedCount + skippedCount + failedCount;
+
+            double throughput = activeSeconds > 0 ? processed / activeSeconds : 0;
+            long planned = Math.min(total, (long) (request.getMaxPerSecond() * activeSeconds));
+            long lag = status.isFinished() ? 0 : Math.max(0, planned - processed);
+            long startDelay = startedAt != null
+                    ? Math.max(0, Duration.between(startAt, startedAt).toMillis())
+                    : 0;
+
+            return new WaveProgress(id, request.getName(), status, failureReason,
+                    request.getMaxPerSecond(), request.getMaxConcurrency(),
+                    startAt, startedAt, finishedAt, startDelay,
+                    total, processed, migratedCount, skippedCount, failedCount,
+                    throughput, lag);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void stopClock() {
+        if (status == WaveStatus.RUNNING) {
+            activeNanos += System.nanoTime() - activeSince;
+        }
+    }
+}
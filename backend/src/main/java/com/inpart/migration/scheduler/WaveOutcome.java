@@ -0,0 +1,11 @@
+package com.inpart.migration.scheduler;
+
+/**
+ * Result of migrating a single client within a wave.
+ */
+enum WaveOutcome {
+    MIGRATED,
+    /** Client was already migrated. */
+    SKIPPED,
+    FAILED
+}
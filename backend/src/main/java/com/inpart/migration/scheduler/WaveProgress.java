@@ -0,0 +1,29 @@
+package com.inpart.migration.scheduler;
+
+import java.time.Instant;
+
+/**
+ * Point-in-time snapshot of a migration wave.
+ * Throughput is measured over the time the wave was actually running
+ * (paused time excluded). Lag is how many clients the wave is behind
+ * where maxPerSecond would have taken it in that time.
+ */
+public record WaveProgress(
+        Long id,
+        String name,
+        WaveStatus status,
+        String failureReason,
+        double maxPerSecond,
+        int maxConcurrency,
+        Instant startAt,
+        Instant startedAt,
+        Instant finishedAt,
+        long startDelayMillis,
+        long total,
+        long processed,
+        long migrated,
+        long skipped,
+        long failed,
+        double throughputPerSecond,
+        long lag) {
+}
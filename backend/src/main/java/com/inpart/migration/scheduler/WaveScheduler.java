@@ -0,0 +1,262 @@
+package com.inpart.migration.scheduler;
+
+import com.inpart.migration.cluster.ClusterCoordinator;
+import com.inpart.migration.domain.Client;
+import com.inpart.migration.domain.WaveRequest;
+import com.inpart.migration.exception.ClientAlreadyMigratedException;
+import com.inpart.migration.exception.InvalidWaveStateException;
+import com.inpart.migration.exception.WaveNotFoundException;
+import com.inpart.migration.service.MigrationService;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs migration waves in the background.
+ * Each wave waits until its start time, then dispatches its clients through
+ * a token-bucket pacer (maxPerSecond) onto its own fixed-size worker pool
+ * (maxConcurrency). A semaphore caps in-flight migrations so the pool's
+ * queue never grows beyond the concurrency limit.
+ */
+@Service
+public class WaveScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(WaveScheduler.class);
+
+    private final MigrationService migrationService;
+    private final ClusterCoordinator clusterCoordinator;
+    private final int concurrencyLimit;
+
+    private final Map<Long, MigrationWave> waves = new ConcurrentHashMap<>();
+    private final AtomicLong nextId = new AtomicLong(1);
+    private final ScheduledExecutorService timer =
+            Executors.newSingleThreadScheduledExecutor(daemonThreads("wave-timer"));
+
+    public WaveScheduler(MigrationService migrationService,
+                         ClusterCoordinator clusterCoordinator,
+                         @Value("${migration.waves.max-concurrency:64}") int concurrencyLimit) {
+        this.migrationService = migrationService;
+        this.clusterCoordinator = clusterCoordinator;
+        this.concurrencyLimit = concurrencyLimit;
+    }
+
+    /**
+     * Registers a wave and schedules it for its start time.
+     * @param request the wave definition
+     * @return the initial progress of the scheduled wave
+     * @throws IllegalArgumentException if the request is invalid
+     */
+    public WaveProgress schedule(WaveRequest request) {
+        validate(request);
+
+        Instant now = Instant.now();
+        Instant startAt = request.getStartAt() != null ? request.getStartAt() : now;
+        MigrationWave wave = new MigrationWave(nextId.getAndIncrement(), request, startAt);
+        waves.put(wave.getId(), wave);
+
+        long delayMillis = Math.max(0, Duration.between(now, startAt).toMillis());
+        wave.setStartTask(timer.schedule(() -> launch(wave), delayMillis, TimeUnit.MILLISECONDS));
+
+        logger.info("Scheduled migration wave {} to start at {} ({}/s, concurrency {})",
+                wave.getId(), startAt, request.getMaxPerSecond(), request.getMaxConcurrency());
+
+        return wave.getProgress();
+    }
+
+    /**
+     * @return progress of every registered wave, oldest first
+     */
+    public List<WaveProgress> getWaves() {
+        return waves.values().stream()
+                .sorted(Comparator.comparing(MigrationWave::getId))
+                .map(MigrationWave::getProgress)
+                .toList();
+    }
+
+    /**
+     * @throws WaveNotFoundException if no wave has the given ID
+     */
+    public WaveProgress getWave(Long id) {
+        return findWave(id).getProgress();
+    }
+
+    /**
+     * @throws WaveNotFoundException if no wave has the given ID
+     * @throws InvalidWaveStateException if the wave is not running
+     */
+    public WaveProgress pause(Long id) {
+        MigrationWave wave = findWave(id);
+        wave.pause();
+        logger.info("Paused migration wave {}", id);
+        return wave.getProgress();
+    }
+
+    /**
+     * @throws WaveNotFoundException if no wave has the given ID
+     * @throws InvalidWaveStateException if the wave is not paused
+     */
+    public WaveProgress resume(Long id) {
+        MigrationWave wave = findWave(id);
+        wave.resume();
+        logger.info("Resumed migration wave {}", id);
+        return wave.getProgress();
+    }
+
+    /**
+     * @throws WaveNotFoundException if no wave has the given ID
+     * @throws InvalidWaveStateException if the wave has already finished
+     */
+    public WaveProgress cancel(Long id) {
+        MigrationWave wave = findWave(id);
+        wave.cancel();
+        logger.info("Cancelled migration wave {}", id);
+        return wave.getProgress();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        timer.shutdownNow();
+        for (MigrationWave wave : waves.values()) {
+            try {
+                wave.cancel();
+            } catch (InvalidWaveStateException e) {
+                // Already finished
+            }
+        }
+    }
+
+    private MigrationWave findWave(Long id) {
+        return Optional.ofNullable(waves.get(id))
+                .orElseThrow(() -> new WaveNotFoundException(id));
+    }
+
+    private void validate(WaveRequest request) {
+        boolean hasIds = request.getClientIds() != null && !request.getClientIds().isEmpty();
+        if (hasIds == (request.getSelector() != null)) {
+            throw new IllegalArgumentException("Exactly one of clientIds or selector must be given");
+        }
+        if (!(request.getMaxPerSecond() > 0) || !Double.isFinite(request.getMaxPerSecond())) {
+            throw new IllegalArgumentException("maxPerSecond must be a positive finite number");
+        }
+        if (request.getMaxConcurrency() < 1 || request.getMaxConcurrency() > concurrencyLimit) {
+            throw new IllegalArgumentException(
+                    "maxConcurrency must be between 1 and " + concurrencyLimit);
+        }
+    }
+
+    private void launch(MigrationWave wave) {
+        Thread dispatcher = new Thread(() -> dispatch(wave), "wave-" + wave.getId() + "-dispatcher");
+        dispatcher.setDaemon(true);
+        wave.setDispatcher(dispatcher);
+        dispatcher.start();
+    }
+
+    private void dispatch(MigrationWave wave) {
+        List<Long> clientIds;
+        try {
+            clientIds = resolveClientIds(wave.getRequest());
+        } catch (RuntimeException e) {
+            logger.warn("Could not resolve clients for migration wave {}", wave.getId(), e);
+            wave.fail(e.getMessage());
+            return;
+        }
+        if (!wave.start(clientIds.size())) {
+            return;
+        }
+        logger.info("Started migration wave {} with {} clients", wave.getId(), clientIds.size());
+
+        double rate = wave.getRequest().getMaxPerSecond();
+        int concurrency = wave.getRequest().getMaxConcurrency();
+        // Allow at most a tenth of a second's worth of burst after a stall
+        TokenBucket pacer = new TokenBucket(rate, Math.max(1.0, rate / 10));
+        Semaphore inFlight = new Semaphore(concurrency);
+        ExecutorService workers = Executors.newFixedThreadPool(
+                concurrency, daemonThreads("wave-" + wave.getId() + "-worker"));
+
+        try {
+            for (Long clientId : clientIds) {
+                if (!wave.awaitRunnable()) {
+                    break;
+                }
+                pacer.acquire();
+                inFlight.acquire();
+                // A pause or cancel may have arrived while waiting for permits
+                if (!wave.awaitRunnable()) {
+                    inFlight.release();
+                    break;
+                }
+                workers.execute(() -> {
+                    try {
+                        wave.record(migrate(clientId));
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+            // Wait for in-flight migrations so COMPLETED means every client was processed
+            inFlight.acquire(concurrency);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            workers.shutdown();
+            wave.finish();
+        }
+
+        WaveProgress progress = wave.getProgress();
+        logger.info("Migration wave {} {}: {} migrated, {} skipped, {} failed",
+                wave.getId(), progress.status(), progress.migrated(), progress.skipped(), progress.failed());
+    }
+
+    private List<Long> resolveClientIds(WaveRequest request) {
+        if (request.getSelector() == null) {
+            return request.getClientIds().stream().distinct().toList();
+        }
+        return switch (request.getSelector()) {
+            case ALL_LEGACY -> clusterCoordinator.listClients(false, null, null, false).clients().stream()
+                    .map(Client::getId)
+                    .toList();
+        };
+    }
+
+    private WaveOutcome migrate(Long clientId) {
+        try {
+            if (clusterCoordinator.isLocal(clientId)) {
+                migrationService.migrateClient(clientId);
+                return WaveOutcome.MIGRATED;
+            }
+            HttpStatusCode status = clusterCoordinator.forward(clientId, "/migrate/" + clientId).getStatusCode();
+            if (status.is2xxSuccessful()) {
+                return WaveOutcome.MIGRATED;
+            }
+            return status.value() == HttpStatus.CONFLICT.value() ? WaveOutcome.SKIPPED : WaveOutcome.FAILED;
+        } catch (ClientAlreadyMigratedException e) {
+            return WaveOutcome.SKIPPED;
+        } catch (RuntimeException e) {
+            logger.warn("Migration wave failed to migrate client {}: {}", clientId, e.getMessage());
+            return WaveOutcome.FAILED;
+        }
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger(1);
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + counter.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
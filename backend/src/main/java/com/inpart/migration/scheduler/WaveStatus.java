@@ -0,0 +1,17 @@
+package com.inpart.migration.scheduler;
+
+/**
+ * Lifecycle states of a migration wave.
+ */
+public enum WaveStatus {
+    SCHEDULED,
+    RUNNING,
+    PAUSED,
+    COMPLETED,
+    CANCELLED,
+    FAILED;
+
+    public boolean isFinished() {
+        return this == COMPLETED || this == CANCELLED || this == FAILED;
+    }
+}
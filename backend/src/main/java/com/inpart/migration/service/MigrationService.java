@@ -1,6 +1,7 @@
 package com.inpart.migration.service;
 
 import com.inpart.migration.domain.Client;
+import com.inpart.migration.domain.ClientStats;
 import com.inpart.migration.exception.ClientAlreadyMigratedException;
 import com.inpart.migration.exception.ClientNotFoundException;
 import com.inpart.migration.exception.ClientNotMigratedException;
@@ -63,6 +64,15 @@ public class MigrationService {
         return repository.findByMigratedTrue();
     }
 
+    /**
+     * Counts legacy and migrated clients.
+     * @return the client counts
+     */
+    public ClientStats getClientStats() {
+        simulateNetworkDelay();
+        return new ClientStats(repository.countByMigratedFalse(), repository.countByMigratedTrue());
+    }
+
     /**
      * Migrates a client by marking them as migrated.
      * @param id the client ID to migrate
@@ -0,0 +1,118 @@
+package com.inpart.migration.cluster;
+
+import com.inpart.migration.domain.Client;
+import com.inpart.migration.domain.ClientPage;
+import com.inpart.migration.domain.ClientStats;
+import com.inpart.migration.exception.PeerUnavailableException;
+import com.inpart.migration.service.MigrationService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ClusterCoordinator.
+ * Uses Mockito to mock the service layer and peer HTTP client.
+ */
+@ExtendWith(MockitoExtension.class)
+class ClusterCoordinatorTest {
+
+    private static final String SELF = "http://localhost:9091";
+    private static final String PEER = "http://localhost:9092";
+
+    @Mock
+    private MigrationService migrationService;
+
+    @Mock
+    private PeerClient peerClient;
+
+    @Test
+    void listClients_withClusterDisabled_shouldPaginateLocally() {
+        // Arrange
+        ClusterCoordinator coordinator = new ClusterCoordinator(
+                migrationService, new ClusterTopology(false, SELF, "", 128), peerClient);
+        when(migrationService.getLegacyClients()).thenReturn(List.of(
+                new Client(3L, "C", false), new Client(1L, "A", false), new Client(2L, "B", false)));
+
+        // Act
+        ClientPage result = coordinator.listClients(false, 1, 2, false);
+
+        // Assert
+        assertEquals(3, result.total());
+        assertEquals(List.of(3L), result.clients().stream().map(Client::getId).toList());
+        verifyNoInteractions(peerClient);
+    }
+
+    @Test
+    void listClients_withClusterEnabled_shouldMergePeerResultsById() {
+        // Arrange
+        ClusterTopology topology = new ClusterTopology(true, SELF, SELF + "," + PEER, 128);
+        ClusterCoordinator coordinator = new ClusterCoordinator(migrationService, topology, peerClient);
+
+        List<Client> all = List.of(new Client(1L, "A", false), new Client(2L, "B", false),
+                new Client(3L, "C", false), new Client(4L, "D", false));
+        List<Client> owned = all.stream().filter(c -> topology.isLocal(c.getId())).toList();
+        List<Client> foreign = all.stream().filter(c -> !topology.isLocal(c.getId())).toList();
+        when(migrationService.getLegacyClients()).thenReturn(owned);
+        when(peerClient.fetchClients(eq(PEER), eq("/legacy/clients"), anyInt()))
+                .thenReturn(CompletableFuture.completedFuture(new ClientPage(foreign, foreign.size())));
+
+        // Act
+        ClientPage result = coordinator.listClients(false, null, null, false);
+
+        // Assert
+        assertEquals(owned.size() + foreign.size(), result.total());
+        assertEquals(List.of(1L, 2L, 3L, 4L), result.clients().stream().map(Client::getId).toList());
+    }
+
+    @Test
+    void listClients_withUnreachablePeer_shouldThrowPeerUnavailableException() {
+        // Arrange
+        ClusterCoordinator coordinator = new ClusterCoordinator(
+                migrationService, new ClusterTopology(true, SELF, SELF + "," + PEER, 128), peerClient);
+        when(migrationService.getMigratedClients()).thenReturn(List.of());
+        when(peerClient.fetchClients(eq(PEER), eq("/new/clients"), anyInt()))
+                .thenReturn(CompletableFuture.failedFuture(new PeerUnavailableException(PEER, null)));
+
+        // Act & Assert
+        assertThrows(PeerUnavailableException.class, () -> coordinator.listClients(true, 0, 10, false));
+    }
+
+    @Test
+    void listClients_withInvalidPage_shouldThrowIllegalArgumentException() {
+        // Arrange
+        ClusterCoordinator coordinator = new ClusterCoordinator(
+                migrationService, new ClusterTopology(false, SELF, "", 128), peerClient);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> coordinator.listClients(false, -1, 10, false));
+        assertThrows(IllegalArgumentException.class, () -> coordinator.listClients(false, 0, 0, false));
+    }
+
+    @Test
+    void getStats_withClusterEnabled_shouldSumPeerCounts() {
+        // Arrange
+        ClusterCoordinator coordinator = new ClusterCoordinator(
+                migrationService, new ClusterTopology(true, SELF, SELF + "," + PEER, 128), peerClient);
+        when(migrationService.getClientStats()).thenReturn(new ClientStats(1, 3));
+        when(peerClient.fetchStats(PEER)).thenReturn(CompletableFuture.completedFuture(
+                Map.of("legacy", 5L, "migrated", 2L, "total", 7L)));
+
+        // Act
+        Map<String, Long> stats = coordinator.getStats(false);
+
+        // Assert
+        assertEquals(6L, stats.get("legacy"));
+        assertEquals(5L, stats.get("migrated"));
+        assertEquals(11L, stats.get("total"));
+        verify(migrationService, times(1)).getClientStats();
+    }
+}
@@ -0,0 +1,68 @@
+package com.inpart.migration.cluster;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ConsistentHashRing.
+ */
+class ConsistentHashRingTest {
+
+    private static final List<String> NODES = List.of(
+            "http://localhost:9091", "http://localhost:9092", "http://localhost:9093");
+
+    @Test
+    void ownerOf_shouldBeDeterministicAcrossInstances() {
+        // Arrange
+        ConsistentHashRing first = new ConsistentHashRing(NODES, 128);
+        ConsistentHashRing second = new ConsistentHashRing(NODES, 128);
+
+        // Act & Assert
+        for (long id = 1; id <= 1_000; id++) {
+            assertEquals(first.ownerOf(id), second.ownerOf(id));
+        }
+    }
+
+    @Test
+    void ownerOf_shouldSpreadIdsAcrossAllNodes() {
+        // Arrange
+        ConsistentHashRing ring = new ConsistentHashRing(NODES, 128);
+        Map<String, Integer> counts = new HashMap<>();
+
+        // Act
+        for (long id = 1; id <= 30_000; id++) {
+            counts.merge(ring.ownerOf(id), 1, Integer::sum);
+        }
+
+        // Assert - every node within 25% of a perfectly even share
+        assertEquals(NODES.size(), counts.size());
+        counts.values().forEach(count -> assertTrue(count > 7_500 && count < 12_500, "count " + count));
+    }
+
+    @Test
+    void addingNode_shouldOnlyMoveIdsToTheNewNode() {
+        // Arrange
+        ConsistentHashRing before = new ConsistentHashRing(NODES, 128);
+        ConsistentHashRing after = new ConsistentHashRing(
+                List.of("http://localhost:9091", "http://localhost:9092",
+                        "http://localhost:9093", "http://localhost:9094"), 128);
+
+        // Act & Assert
+        for (long id = 1; id <= 10_000; id++) {
+            String owner = after.ownerOf(id);
+            if (!owner.equals(before.ownerOf(id))) {
+                assertEquals("http://localhost:9094", owner);
+            }
+        }
+    }
+
+    @Test
+    void constructor_withNoNodes_shouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> new ConsistentHashRing(List.of(), 128));
+    }
+}
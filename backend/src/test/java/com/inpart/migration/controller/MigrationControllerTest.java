@@ -0,0 +1,93 @@
+package com.inpart.migration.controller;
+
+import com.inpart.migration.cluster.ClusterCoordinator;
+import com.inpart.migration.cluster.PeerClient;
+import com.inpart.migration.domain.Client;
+import com.inpart.migration.service.MigrationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Unit tests for MigrationController's cluster routing.
+ * Uses a standalone MockMvc with mocked service and coordinator.
+ */
+@ExtendWith(MockitoExtension.class)
+class MigrationControllerTest {
+
+    @Mock
+    private MigrationService migrationService;
+
+    @Mock
+    private ClusterCoordinator clusterCoordinator;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(new MigrationController(migrationService, clusterCoordinator))
+                .build();
+    }
+
+    @Test
+    void migrateClient_ownedLocally_shouldMigrateHere() throws Exception {
+        // Arrange
+        when(clusterCoordinator.isLocal(1L)).thenReturn(true);
+        when(migrationService.migrateClient(1L)).thenReturn(new Client(1L, "Test Client", true));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/migrate/1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.migrated").value(true));
+        verify(clusterCoordinator, never()).forward(any(), any());
+    }
+
+    @Test
+    void migrateClient_ownedByPeer_shouldForward() throws Exception {
+        // Arrange
+        when(clusterCoordinator.isLocal(2L)).thenReturn(false);
+        when(clusterCoordinator.forward(2L, "/migrate/2"))
+                .thenReturn(ResponseEntity.ok("{\"id\":2,\"name\":\"Peer Client\",\"migrated\":true}"));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/migrate/2"))
+                .andExpect(status().isOk());
+        verify(migrationService, never()).migrateClient(any());
+    }
+
+    @Test
+    void migrateClient_forwardedButNotOwned_shouldRejectWithoutWriting() throws Exception {
+        // Arrange
+        when(clusterCoordinator.isLocal(3L)).thenReturn(false);
+
+        // Act & Assert
+        mockMvc.perform(post("/api/migrate/3").header(PeerClient.FORWARDED_HEADER, "true"))
+                .andExpect(status().is(421))
+                .andExpect(jsonPath("$.error").exists());
+        verify(migrationService, never()).migrateClient(any());
+        verify(clusterCoordinator, never()).forward(any(), any());
+    }
+
+    @Test
+    void rollbackMigration_forwardedButNotOwned_shouldRejectWithoutWriting() throws Exception {
+        // Arrange
+        when(clusterCoordinator.isLocal(3L)).thenReturn(false);
+
+        // Act & Assert
+        mockMvc.perform(post("/api/rollback/3").header(PeerClient.FORWARDED_HEADER, "true"))
+                .andExpect(status().is(421));
+        verify(migrationService, never()).rollbackMigration(any());
+    }
+}
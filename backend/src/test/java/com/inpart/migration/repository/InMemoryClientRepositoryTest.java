@@ -1,11 +1,13 @@
 package com.inpart.migration.repository;
 
+import com.inpart.migration.cluster.ClusterTopology;
 import com.inpart.migration.domain.Client;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -32,6 +34,63 @@ class InMemoryClientRepositoryTest {
         assertEquals(6, clients.size()); // Based on sample data
     }
 
+    @Test
+    void constructor_withSeedCount_shouldAddGeneratedLegacyClients() {
+        // Act
+        InMemoryClientRepository seeded = new InMemoryClientRepository(1000);
+
+        // Assert
+        assertEquals(1006, seeded.findAll().size());
+        assertEquals(1006, seeded.findByMigratedFalse().size());
+        assertEquals("Generated Client 1000", seeded.findById(1006L).orElseThrow().getName());
+    }
+
+    @Test
+    void constructor_inClusterMode_shouldOnlyStoreOwnedClients() {
+        // Arrange
+        ClusterTopology topology = new ClusterTopology(true, "http://localhost:9091",
+                "http://localhost:9091,http://localhost:9092", 128);
+
+        // Act
+        InMemoryClientRepository partitioned = new InMemoryClientRepository(1000, topology);
+
+        // Assert
+        List<Client> stored = partitioned.findAll();
+        long owned = LongStream.rangeClosed(1, 1006).filter(topology::isLocal).count();
+        assertEquals(owned, stored.size());
+        assertTrue(stored.size() < 1006);
+        assertTrue(stored.stream().allMatch(client -> topology.isLocal(client.getId())));
+    }
+
+    @Test
+    void save_inClusterMode_withForeignId_shouldThrow() {
+        // Arrange
+        ClusterTopology topology = new ClusterTopology(true, "http://localhost:9091",
+                "http://localhost:9091,http://localhost:9092", 128);
+        InMemoryClientRepository partitioned = new InMemoryClientRepository(100, topology);
+        long foreignId = LongStream.rangeClosed(1, 106)
+                .filter(id -> !topology.isLocal(id))
+                .findFirst()
+                .orElseThrow();
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> partitioned.save(new Client(foreignId, "Foreign", true)));
+        assertTrue(partitioned.findById(foreignId).isEmpty());
+    }
+
+    @Test
+    void countByMigrated_shouldMatchFindResults() {
+        // Arrange
+        Client client = repository.findById(1L).orElseThrow();
+        client.setMigrated(true);
+        repository.save(client);
+
+        // Act & Assert
+        assertEquals(5, repository.countByMigratedFalse());
+        assertEquals(1, repository.countByMigratedTrue());
+    }
+
     @Test
     void findById_withExistingId_shouldReturnClient() {
         // Act
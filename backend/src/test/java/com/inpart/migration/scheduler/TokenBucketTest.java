@@ -0,0 +1,61 @@
+package com.inpart.migration.scheduler;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TokenBucket.
+ * Uses a manual clock so refill behaviour is deterministic.
+ */
+class TokenBucketTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void tryAcquire_shouldStartEmpty() {
+        // Arrange
+        TokenBucket bucket = new TokenBucket(10, 5, clock::get);
+
+        // Act & Assert
+        assertFalse(bucket.tryAcquire());
+    }
+
+    @Test
+    void tryAcquire_shouldRefillAtConfiguredRate() {
+        // Arrange
+        TokenBucket bucket = new TokenBucket(10, 5, clock::get);
+
+        // Act - 10 permits/s means one every 100ms
+        clock.addAndGet(100_000_000L);
+
+        // Assert
+        assertTrue(bucket.tryAcquire());
+        assertFalse(bucket.tryAcquire());
+    }
+
+    @Test
+    void tryAcquire_shouldNotExceedCapacityAfterIdle() {
+        // Arrange
+        TokenBucket bucket = new TokenBucket(10, 5, clock::get);
+
+        // Act - idle for 10 seconds
+        clock.addAndGet(10_000_000_000L);
+        int granted = 0;
+        while (bucket.tryAcquire()) {
+            granted++;
+        }
+
+        // Assert
+        assertEquals(5, granted);
+    }
+
+    @Test
+    void constructor_withNonPositiveOrNonFiniteRate_shouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(Double.POSITIVE_INFINITY, 1));
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(Double.NaN, 1));
+    }
+}
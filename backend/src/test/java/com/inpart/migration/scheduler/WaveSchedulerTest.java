@@ -0,0 +1,181 @@
+package com.inpart.migration.scheduler;
+
+import com.inpart.migration.cluster.ClusterCoordinator;
+import com.inpart.migration.domain.Client;
+import com.inpart.migration.domain.ClientPage;
+import com.inpart.migration.domain.ClientSelector;
+import com.inpart.migration.domain.WaveRequest;
+import com.inpart.migration.exception.ClientAlreadyMigratedException;
+import com.inpart.migration.exception.InvalidWaveStateException;
+import com.inpart.migration.exception.WaveNotFoundException;
+import com.inpart.migration.service.MigrationService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for WaveScheduler.
+ * Uses Mockito to mock the service layer; waves run on real threads.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class WaveSchedulerTest {
+
+    @Mock
+    private MigrationService migrationService;
+
+    @Mock
+    private ClusterCoordinator clusterCoordinator;
+
+    private WaveScheduler waveScheduler;
+
+    @BeforeEach
+    void setUp() {
+        when(clusterCoordinator.isLocal(anyLong())).thenReturn(true);
+        waveScheduler = new WaveScheduler(migrationService, clusterCoordinator, 8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        waveScheduler.shutdown();
+    }
+
+    @Test
+    void schedule_withClientIds_shouldMigrateEveryClient() throws Exception {
+        // Arrange
+        when(migrationService.migrateClient(3L)).thenThrow(new ClientAlreadyMigratedException(3L));
+        WaveRequest request = new WaveRequest("test", List.of(1L, 2L, 3L, 4L, 4L), null, null, 1000, 2);
+
+        // Act
+        WaveProgress scheduled = waveScheduler.schedule(request);
+        WaveProgress finished = awaitFinished(scheduled.id());
+
+        // Assert - duplicate id 4 is only migrated once
+        assertEquals(WaveStatus.COMPLETED, finished.status());
+        assertEquals(4, finished.total());
+        assertEquals(3, finished.migrated());
+        assertEquals(1, finished.skipped());
+        assertEquals(0, finished.failed());
+        verify(migrationService, times(1)).migrateClient(4L);
+    }
+
+    @Test
+    void schedule_withLegacySelector_shouldResolveClientsAtStart() throws Exception {
+        // Arrange
+        when(clusterCoordinator.listClients(false, null, null, false)).thenReturn(new ClientPage(
+                List.of(new Client(5L, "A", false), new Client(6L, "B", false)), 2));
+        WaveRequest request = new WaveRequest("legacy", null, ClientSelector.ALL_LEGACY, null, 1000, 1);
+
+        // Act
+        WaveProgress finished = awaitFinished(waveScheduler.schedule(request).id());
+
+        // Assert
+        assertEquals(2, finished.migrated());
+        verify(migrationService).migrateClient(5L);
+        verify(migrationService).migrateClient(6L);
+    }
+
+    @Test
+    void cancel_beforeStart_shouldNotMigrateAnyClient() {
+        // Arrange
+        WaveRequest request = new WaveRequest("later", List.of(1L), null,
+                Instant.now().plusSeconds(3600), 10, 1);
+        Long id = waveScheduler.schedule(request).id();
+
+        // Act
+        WaveProgress cancelled = waveScheduler.cancel(id);
+
+        // Assert
+        assertEquals(WaveStatus.CANCELLED, cancelled.status());
+        assertThrows(InvalidWaveStateException.class, () -> waveScheduler.cancel(id));
+        verifyNoInteractions(migrationService);
+    }
+
+    @Test
+    void pause_onScheduledWave_shouldThrowInvalidWaveStateException() {
+        // Arrange
+        WaveRequest request = new WaveRequest("later", List.of(1L), null,
+                Instant.now().plusSeconds(3600), 10, 1);
+        Long id = waveScheduler.schedule(request).id();
+
+        // Act & Assert
+        assertThrows(InvalidWaveStateException.class, () -> waveScheduler.pause(id));
+    }
+
+    @Test
+    void pauseAndResume_shouldStopAndContinueDispatching() throws Exception {
+        // Arrange - 5 clients/s so the wave is still running when paused
+        WaveRequest request = new WaveRequest("paced", List.of(1L, 2L, 3L), null, null, 5, 1);
+        Long id = waveScheduler.schedule(request).id();
+        awaitStatus(id, WaveStatus.RUNNING);
+
+        // Act - the unpaused wave would finish within ~600ms; stay paused well past that
+        WaveProgress paused = waveScheduler.pause(id);
+        Thread.sleep(300);
+        long processedEarlyInPause = waveScheduler.getWave(id).processed();
+        Thread.sleep(1000);
+        long processedLateInPause = waveScheduler.getWave(id).processed();
+        waveScheduler.resume(id);
+        WaveProgress finished = awaitFinished(id);
+
+        // Assert
+        assertEquals(WaveStatus.PAUSED, paused.status());
+        assertEquals(processedEarlyInPause, processedLateInPause);
+        assertTrue(processedLateInPause < 3);
+        assertEquals(WaveStatus.COMPLETED, finished.status());
+        assertEquals(3, finished.migrated());
+    }
+
+    @Test
+    void schedule_withInvalidRequest_shouldThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> waveScheduler.schedule(
+                new WaveRequest("none", null, null, null, 10, 1)));
+        assertThrows(IllegalArgumentException.class, () -> waveScheduler.schedule(
+                new WaveRequest("both", List.of(1L), ClientSelector.ALL_LEGACY, null, 10, 1)));
+        assertThrows(IllegalArgumentException.class, () -> waveScheduler.schedule(
+                new WaveRequest("rate", List.of(1L), null, null, 0, 1)));
+        // JSON like 1e400 deserializes to Infinity
+        assertThrows(IllegalArgumentException.class, () -> waveScheduler.schedule(
+                new WaveRequest("infinite", List.of(1L), null, null, Double.POSITIVE_INFINITY, 1)));
+        assertThrows(IllegalArgumentException.class, () -> waveScheduler.schedule(
+                new WaveRequest("nan", List.of(1L), null, null, Double.NaN, 1)));
+        assertThrows(IllegalArgumentException.class, () -> waveScheduler.schedule(
+                new WaveRequest("concurrency", List.of(1L), null, null, 10, 9)));
+    }
+
+    @Test
+    void getWave_withUnknownId_shouldThrowWaveNotFoundException() {
+        assertThrows(WaveNotFoundException.class, () -> waveScheduler.getWave(999L));
+    }
+
+    private WaveProgress awaitFinished(Long id) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            WaveProgress progress = waveScheduler.getWave(id);
+            if (progress.status().isFinished()) {
+                return progress;
+            }
+            Thread.sleep(50);
+        }
+        fail("Wave " + id + " did not finish in time");
+        return null;
+    }
+
+    private void awaitStatus(Long id, WaveStatus status) throws InterruptedException {
+        for (int i = 0; i < 100 && waveScheduler.getWave(id).status() != status; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(status, waveScheduler.getWave(id).status());
+    }
+}
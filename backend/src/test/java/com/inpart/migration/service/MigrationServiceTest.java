@@ -1,6 +1,7 @@
 package com.inpart.migration.service;
 
 import com.inpart.migration.domain.Client;
+import com.inpart.migration.domain.ClientStats;
 import com.inpart.migration.exception.ClientAlreadyMigratedException;
 import com.inpart.migration.exception.ClientNotFoundException;
 import com.inpart.migration.exception.ClientNotMigratedException;
@@ -83,6 +84,22 @@ class MigrationServiceTest {
         verify(repository, times(1)).findByMigratedTrue();
     }
 
+    @Test
+    void getClientStats_shouldCountWithoutLoadingClients() {
+        // Arrange
+        when(repository.countByMigratedFalse()).thenReturn(4L);
+        when(repository.countByMigratedTrue()).thenReturn(2L);
+
+        // Act
+        ClientStats result = migrationService.getClientStats();
+
+        // Assert
+        assertEquals(4L, result.legacy());
+        assertEquals(2L, result.migrated());
+        verify(repository, never()).findByMigratedFalse();
+        verify(repository, never()).findByMigratedTrue();
+    }
+
     @Test
     void migrateClient_withValidLegacyClient_shouldSucceed() {
         // Arrange
@@ -0,0 +1,67 @@
+#!/bin/bash
+
+# Client Migration Tool - Local Cluster Script
+# Starts N backend instances on consecutive ports, each owning a
+# consistent-hash range of client ids.
+#
+# Usage: ./start-cluster.sh [nodes] [base-port]
+#   ./start-cluster.sh 4        # ports 9091-9094
+
+set -e
+
+NODES=${1:-3}
+BASE_PORT=${2:-9091}
+
+GREEN='\033[0;32m'
+BLUE='\033[0;34m'
+YELLOW='\033[1;33m'
+NC='\033[0m' # No Color
+
+PIDS=()
+
+cleanup() {
+    echo ""
+    echo -e "${YELLOW}🛑 Shutting down cluster...${NC}"
+    for PID in "${PIDS[@]}"; do
+        kill $PID 2>/dev/null || true
+    done
+    echo -e "${GREEN}✓ Cluster stopped${NC}"
+    exit 0
+}
+
+trap cleanup SIGINT SIGTERM
+
+cd backend
+
+JAR=$(ls target/migration-tool-*.jar 2>/dev/null | head -n 1)
+if [ -z "$JAR" ]; then
+    echo "Building backend..."
+    mvn clean package -DskipTests
+    JAR=$(ls target/migration-tool-*.jar | head -n 1)
+fi
+
+# Build the comma-separated member list shared by every node
+MEMBERS=""
+for ((i = 0; i < NODES; i++)); do
+    PORT=$((BASE_PORT + i))
+    MEMBERS="${MEMBERS:+$MEMBERS,}http://localhost:$PORT"
+done
+
+echo -e "${BLUE}📦 Starting $NODES backend nodes...${NC}"
+for ((i = 0; i < NODES; i++)); do
+    PORT=$((BASE_PORT + i))
+    java -jar "$JAR" \
+        --server.port=$PORT \
+        --migration.cluster.enabled=true \
+        --migration.cluster.self=http://localhost:$PORT \
+        --migration.cluster.nodes=$MEMBERS \
+        "${@:3}" > ../backend-$PORT.log 2>&1 &
+    PIDS+=($!)
+    echo -e "${GREEN}✓ Node starting on http://localhost:$PORT${NC} (log: backend-$PORT.log)"
+done
+cd ..
+
+echo ""
+echo -e "${YELLOW}Any node accepts any request. Press Ctrl+C to stop the cluster${NC}"
+
+wait